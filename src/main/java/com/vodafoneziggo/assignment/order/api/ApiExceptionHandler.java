@@ -2,6 +2,7 @@ package com.vodafoneziggo.assignment.order.api;
 
 import com.vodafoneziggo.assignment.order.contract.model.ErrorResponse;
 import com.vodafoneziggo.assignment.order.service.OrderService.DuplicateOrderException;
+import com.vodafoneziggo.assignment.order.service.OrderService.InvalidProductIdException;
 import jakarta.validation.ConstraintViolationException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -20,9 +21,9 @@ public class ApiExceptionHandler {
 
     /**
      * Handles validation errors coming from request body or parameters.
-     * This covers Valid failures and constraint violations.
+     * This covers Valid failures, constraint violations and null/blank product ids.
      */
-    @ExceptionHandler({MethodArgumentNotValidException.class, ConstraintViolationException.class})
+    @ExceptionHandler({MethodArgumentNotValidException.class, ConstraintViolationException.class, InvalidProductIdException.class})
     public ResponseEntity<ErrorResponse> badRequest(Exception ex) {
         return ResponseEntity.badRequest().body(new ErrorResponse("BAD_REQUEST", "Invalid request"));
     }
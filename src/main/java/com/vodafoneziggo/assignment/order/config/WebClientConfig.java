@@ -1,25 +1,65 @@
 package com.vodafoneziggo.assignment.order.config;
 
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
 import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 /**
  * WebClient configuration for the external ReqRes service.
- * Centralizes base URL, headers, timeout, and API key handling.
+ * Centralizes base URL, headers, timeouts, connection pooling, and API key handling.
  */
 @Configuration
 public class WebClientConfig {
 
+    /**
+     * Dedicated connection pool for ReqRes so its sizing and eviction
+     * can be tuned independently of any other outbound traffic.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider reqResConnectionProvider(
+            @Value("${integration.reqres.pool.max-connections}") int maxConnections,
+            @Value("${integration.reqres.pool.pending-acquire-max-count}") int pendingAcquireMaxCount,
+            @Value("${integration.reqres.pool.pending-acquire-timeout-ms}") long pendingAcquireTimeoutMs,
+            @Value("${integration.reqres.pool.max-idle-time-ms}") long maxIdleTimeMs,
+            @Value("${integration.reqres.pool.max-life-time-ms}") long maxLifeTimeMs,
+            @Value("${integration.reqres.pool.evict-interval-ms}") long evictIntervalMs,
+            @Value("${integration.reqres.pool.metrics-enabled}") boolean metricsEnabled
+    ) {
+        return ConnectionProvider.builder("reqres")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                // Close idle connections before the upstream/load balancer silently drops them
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMs))
+                .maxLifeTime(Duration.ofMillis(maxLifeTimeMs))
+                .evictInBackground(Duration.ofMillis(evictIntervalMs))
+                // Publishes active/idle/pending connections and pending acquire time to Micrometer
+                .metrics(metricsEnabled)
+                .build();
+    }
+
     @Bean
     public WebClient reqResWebClient(
+            ConnectionProvider reqResConnectionProvider,
             @Value("${integration.reqres.base-url}") String baseUrl,
             @Value("${integration.reqres.api-key}") String apiKey,
-            @Value("${integration.reqres.timeout-ms}") long timeoutMs
+            @Value("${integration.reqres.timeout-ms}") long timeoutMs,
+            @Value("${integration.reqres.connect-timeout-ms}") int connectTimeoutMs,
+            @Value("${integration.reqres.read-timeout-ms}") long readTimeoutMs,
+            @Value("${integration.reqres.write-timeout-ms}") long writeTimeoutMs,
+            @Value("${integration.reqres.http2-enabled}") boolean http2Enabled
     ) {
         // Base WebClient setup with common headers
         WebClient.Builder builder = WebClient.builder()
@@ -31,12 +71,26 @@ public class WebClientConfig {
         if (apiKey != null && !apiKey.isBlank()) {
             builder.defaultHeader("x-api-key", apiKey);
         }
-        // Apply request timeout to avoid hanging external calls
+
+        HttpClient httpClient = HttpClient.create(reqResConnectionProvider)
+                // Apply request timeout to avoid hanging external calls
+                .responseTimeout(Duration.ofMillis(timeoutMs))
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                // Sends Accept-Encoding: gzip and transparently decompresses responses
+                .compress(true)
+                .doOnConnected(conn -> conn
+                        .addHandlerLast(new ReadTimeoutHandler(readTimeoutMs, TimeUnit.MILLISECONDS))
+                        .addHandlerLast(new WriteTimeoutHandler(writeTimeoutMs, TimeUnit.MILLISECONDS)));
+
+        // HTTP/2 is negotiated via ALPN, so it only applies over TLS; HTTP/1.1 stays as fallback
+        if (http2Enabled && baseUrl.startsWith("https")) {
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+
         return builder
-                .clientConnector(new org.springframework.http.client.reactive.ReactorClientHttpConnector(
-                        reactor.netty.http.client.HttpClient.create()
-                                .responseTimeout(Duration.ofMillis(timeoutMs))
-                ))
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .build();
     }
 }
@@ -0,0 +1,23 @@
+package com.vodafoneziggo.assignment.order.controller;
+
+import com.vodafoneziggo.assignment.order.contract.api.CustomersApi;
+import com.vodafoneziggo.assignment.order.contract.model.CustomerSummaryResponse;
+import com.vodafoneziggo.assignment.order.service.CustomerSummaryService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class CustomerController implements CustomersApi {
+
+    // Reads come straight from the summary read model, never from orders
+    private final CustomerSummaryService summaryService;
+
+    public CustomerController(CustomerSummaryService summaryService) {
+        this.summaryService = summaryService;
+    }
+
+    @Override
+    public ResponseEntity<CustomerSummaryResponse> apiCustomersEmailSummaryGet(String email) {
+        return ResponseEntity.ok(summaryService.getSummary(email));
+    }
+}
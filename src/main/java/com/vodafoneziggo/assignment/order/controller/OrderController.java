@@ -3,7 +3,10 @@ package com.vodafoneziggo.assignment.order.controller;
 import com.vodafoneziggo.assignment.order.contract.api.OrdersApi;
 import com.vodafoneziggo.assignment.order.contract.model.CreateOrderRequest;
 import com.vodafoneziggo.assignment.order.contract.model.CreateOrderResponse;
+import com.vodafoneziggo.assignment.order.contract.model.CreateOrdersRequest;
+import com.vodafoneziggo.assignment.order.contract.model.CreateOrdersResponse;
 import com.vodafoneziggo.assignment.order.contract.model.OrderResponse;
+import com.vodafoneziggo.assignment.order.contract.model.ProductOrderResult;
 import com.vodafoneziggo.assignment.order.service.OrderService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
@@ -33,6 +36,22 @@ public class OrderController implements OrdersApi {
         return ResponseEntity.status(201).body(resp);
     }
 
+    @Override
+    public ResponseEntity<CreateOrdersResponse> apiOrdersBatchPost(CreateOrdersRequest request) {
+        // One service call for all products; map each outcome to the contract DTO
+        List<ProductOrderResult> results = service.createOrders(request.getProductIds(), request.getEmail()).stream()
+                .map(o -> {
+                    ProductOrderResult r = new ProductOrderResult();
+                    r.setProductId(o.productId());
+                    r.setStatus(o.created() ? ProductOrderResult.StatusEnum.CREATED : ProductOrderResult.StatusEnum.DUPLICATE);
+                    r.setOrderId(o.orderId());
+                    return r;
+                })
+                .toList();
+
+        return ResponseEntity.ok(new CreateOrdersResponse(results));
+    }
+
     @Override
     public ResponseEntity<List<OrderResponse>> apiOrdersGet(String email) {
         // Fetch entities and map them to contract DTOs for the API response
@@ -1,10 +1,14 @@
 package com.vodafoneziggo.assignment.order.integration;
 
-import java.time.Duration;
+import com.vodafoneziggo.assignment.order.integration.ReqResUserPageScanner.PageScan;
 import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
 
 @Component
 public class ReqResClient {
@@ -12,8 +16,13 @@ public class ReqResClient {
     // WebClient configured specifically for ReqRes integration
     private final WebClient webClient;
 
-    public ReqResClient(WebClient reqResWebClient) {
+    // Scan pages token by token instead of binding them to ReqResUserResponse
+    private final boolean streamingParse;
+
+    public ReqResClient(WebClient reqResWebClient,
+                        @Value("${integration.reqres.streaming-parse}") boolean streamingParse) {
         this.webClient = reqResWebClient;
+        this.streamingParse = streamingParse;
     }
 
 
@@ -32,18 +41,9 @@ public class ReqResClient {
 
         while (true) {
             final int currentPage = page;
-            ReqResUserResponse response;
+            PageScan scan;
             try {
-                // Call ReqRes users endpoint with pagination
-                response = webClient.get()
-                        .uri(uriBuilder -> uriBuilder
-                                .path("/users")
-                                .queryParam("page", currentPage)
-                                .build()
-                        )
-                        .retrieve()
-                        .bodyToMono(ReqResUserResponse.class)
-                        .block();
+                scan = streamingParse ? scanPage(email, currentPage) : bindPage(email, currentPage);
             } catch (WebClientResponseException ex) {
                 // Explicit handling for HTTP-level failure
                 throw new ReqResUnavailableException("ReqRes HTTP error: " + ex.getStatusCode());
@@ -52,21 +52,15 @@ public class ReqResClient {
                 throw new ReqResUnavailableException("ReqRes unavailable: " + ex.getClass().getSimpleName() + " - " + ex.getMessage());
             }
             // Defensive check in case API returns unexpected payload
-            if (response == null || response.getData() == null) {
+            if (scan == null || !scan.hasData()) {
                 return Optional.empty();
             }
 
-            // Try to find a matching user by email (case-insensitive)
-            Optional<UserIdentity> match = response.getData().stream()
-                    .filter(u -> u.getEmail() != null && u.getEmail().equalsIgnoreCase(email))
-                    .findFirst()
-                    .map(u -> new UserIdentity(u.getFirstName(), u.getLastName()));
-
-            if (match.isPresent()) {
-                return match;
+            if (scan.match().isPresent()) {
+                return scan.match();
             }
             // Be defensive: treat 0/negative as "1 page"
-            int totalPages = Math.max(1, response.getTotalPages());
+            int totalPages = Math.max(1, scan.totalPages());
 
             // Stop when last page is reached
             if (page >= totalPages) {
@@ -77,6 +71,60 @@ public class ReqResClient {
         }
     }
 
+    /**
+     * Streams one page through ReqResUserPageScanner and stops parsing once the email is found.
+     * Each chunk is released right after it is scanned, so no page-sized objects are kept.
+     */
+    private PageScan scanPage(String email, int page) {
+        ReqResUserPageScanner scanner = new ReqResUserPageScanner(email);
+
+        return usersPage(page)
+                .bodyToFlux(DataBuffer.class)
+                .doOnNext(buffer -> {
+                    try {
+                        scanner.feed(buffer);
+                    } finally {
+                        DataBufferUtils.release(buffer);
+                    }
+                })
+                // Chunks after a match are released unparsed; the body is still read to the end
+                // because cancelling it would close the connection instead of returning it to the pool
+                .then(Mono.fromCallable(scanner::finish))
+                .block();
+    }
+
+    /**
+     * Binds the full page to ReqResUserResponse and searches its user list.
+     */
+    private PageScan bindPage(String email, int page) {
+        ReqResUserResponse response = usersPage(page)
+                .bodyToMono(ReqResUserResponse.class)
+                .block();
+
+        if (response == null || response.getData() == null) {
+            return null;
+        }
+
+        // Try to find a matching user by email (case-insensitive)
+        Optional<UserIdentity> match = response.getData().stream()
+                .filter(u -> u.getEmail() != null && u.getEmail().equalsIgnoreCase(email))
+                .findFirst()
+                .map(u -> new UserIdentity(u.getFirstName(), u.getLastName()));
+
+        return new PageScan(match, true, response.getTotalPages());
+    }
+
+    // Call ReqRes users endpoint with pagination
+    private WebClient.ResponseSpec usersPage(int page) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/users")
+                        .queryParam("page", page)
+                        .build()
+                )
+                .retrieve();
+    }
+
     /**
      * Minimal user representation used by the order domain.
      */
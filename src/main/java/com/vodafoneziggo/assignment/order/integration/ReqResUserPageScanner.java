@@ -0,0 +1,168 @@
+package com.vodafoneziggo.assignment.order.integration;
+
+import com.vodafoneziggo.assignment.order.integration.ReqResClient.UserIdentity;
+import java.util.Optional;
+import org.springframework.core.io.buffer.DataBuffer;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.ObjectReadContext;
+import tools.jackson.core.async.ByteBufferFeeder;
+import tools.jackson.core.json.JsonFactory;
+
+/**
+ * Incremental scanner for a single ReqRes /users page.
+ * Fed raw response chunks as they arrive and looks for one email token by token,
+ * without binding the page to ReqResUserResponse/User objects.
+ * Not thread-safe: create one instance per page request.
+ */
+class ReqResUserPageScanner {
+
+    // Stateless and thread-safe, shared across all scanners
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    // Nesting depth of a user object: root object > "data" array > user
+    private static final int USER_DEPTH = 3;
+
+    private final String email;
+    private final JsonParser parser;
+    private final ByteBufferFeeder feeder;
+
+    // Reused across users so non-matching entries don't allocate Strings
+    private final StringBuilder firstName = new StringBuilder();
+    private final StringBuilder lastName = new StringBuilder();
+
+    private int depth;
+    private String field;
+    private boolean inData;
+    private boolean sawData;
+    private boolean emailMatches;
+    private int totalPages;
+    private UserIdentity match;
+    private boolean done;
+
+    ReqResUserPageScanner(String email) {
+        this.email = email;
+        this.parser = JSON_FACTORY.createNonBlockingByteBufferParser(ObjectReadContext.empty());
+        this.feeder = (ByteBufferFeeder) parser.nonBlockingInputFeeder();
+    }
+
+    /**
+     * Consumes one response chunk; chunks arriving after a match are ignored.
+     * The caller keeps ownership of the buffer and may release it as soon as this returns.
+     */
+    void feed(DataBuffer buffer) {
+        try (DataBuffer.ByteBufferIterator it = buffer.readableByteBuffers()) {
+            while (!done && it.hasNext()) {
+                feeder.feedInput(it.next());
+                drain();
+            }
+        }
+    }
+
+    /**
+     * Signals end of the response body and returns what was found on this page.
+     */
+    PageScan finish() {
+        if (!done) {
+            feeder.endOfInput();
+            drain();
+        }
+        parser.close();
+        return new PageScan(Optional.ofNullable(match), sawData, totalPages);
+    }
+
+    // Pulls every token available from the current input chunk
+    private void drain() {
+        JsonToken token;
+        while (!done && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            onToken(token);
+        }
+    }
+
+    private void onToken(JsonToken token) {
+        switch (token) {
+            case START_OBJECT -> {
+                depth++;
+                if (inData && depth == USER_DEPTH) {
+                    // New user entry: reset per-user state
+                    emailMatches = false;
+                    firstName.setLength(0);
+                    lastName.setLength(0);
+                }
+            }
+            case START_ARRAY -> {
+                depth++;
+                if (depth == 2 && "data".equals(field)) {
+                    inData = true;
+                    sawData = true;
+                }
+            }
+            case END_OBJECT -> {
+                if (inData && depth == USER_DEPTH && emailMatches) {
+                    match = new UserIdentity(firstName.toString(), lastName.toString());
+                    done = true;
+                }
+                depth--;
+            }
+            case END_ARRAY -> {
+                if (depth == 2) {
+                    inData = false;
+                }
+                depth--;
+            }
+            // Property names are canonicalized by the parser, so this does not allocate
+            case PROPERTY_NAME -> field = parser.currentName();
+            case VALUE_NUMBER_INT -> {
+                if (depth == 1 && "total_pages".equals(field)) {
+                    totalPages = parser.getIntValue();
+                }
+            }
+            case VALUE_STRING -> {
+                if (inData && depth == USER_DEPTH) {
+                    onUserString();
+                }
+            }
+            default -> {
+                // Other values (ids, avatars, support/meta blocks) are skipped
+            }
+        }
+    }
+
+    // Handles the string fields of a user entry, reading straight from the parser's char buffer
+    private void onUserString() {
+        char[] chars = parser.getStringCharacters();
+        int offset = parser.getStringOffset();
+        int length = parser.getStringLength();
+
+        switch (field) {
+            case "email" -> emailMatches = emailEqualsIgnoreCase(chars, offset, length);
+            case "first_name" -> firstName.append(chars, offset, length);
+            case "last_name" -> lastName.append(chars, offset, length);
+            default -> {
+                // Not needed for identity matching
+            }
+        }
+    }
+
+    // Same rules as String.equalsIgnoreCase, without materializing the candidate String
+    private boolean emailEqualsIgnoreCase(char[] chars, int offset, int length) {
+        if (length != email.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char a = chars[offset + i];
+            char b = email.charAt(i);
+            if (a != b
+                    && Character.toUpperCase(a) != Character.toUpperCase(b)
+                    && Character.toLowerCase(a) != Character.toLowerCase(b)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Outcome of scanning one page. hasData mirrors the DTO path's null check on "data".
+     */
+    record PageScan(Optional<UserIdentity> match, boolean hasData, int totalPages) {}
+}
@@ -0,0 +1,35 @@
+package com.vodafoneziggo.assignment.order.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.OffsetDateTime;
+
+/**
+ * JPA entity representing the per-customer order summary read model.
+ * Rows are maintained by the service layer, never written directly by clients.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "customer_order_summary")
+public class CustomerOrderSummaryEntity {
+
+    // Lower-cased customer email, one row per customer
+    @Id
+    @Column(name = "email", nullable = false, length = 255)
+    private String email;
+
+    // Total number of orders placed by the customer
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    // Number of distinct products ordered by the customer
+    @Column(name = "distinct_product_count", nullable = false)
+    private long distinctProductCount;
+
+    // Creation time of the customer's most recent order
+    @Column(name = "last_order_at", nullable = false)
+    private OffsetDateTime lastOrderAt;
+}
@@ -0,0 +1,60 @@
+package com.vodafoneziggo.assignment.order.repo;
+
+import com.vodafoneziggo.assignment.order.model.CustomerOrderSummaryEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+
+/**
+ * JPA repository for CustomerOrderSummaryEntity.
+ * Writes are native upserts so a new order costs a single statement.
+ */
+public interface CustomerOrderSummaryRepository extends JpaRepository<CustomerOrderSummaryEntity, String> {
+
+    // Creates the customer's row if missing and row-locks it until commit, serializing writers per customer
+    @Modifying
+    @Query(value = """
+            insert into customer_order_summary (email, order_count, distinct_product_count, last_order_at)
+            values (lower(:email), 0, 0, '-infinity')
+            on conflict (email) do update set order_count = customer_order_summary.order_count
+            """, nativeQuery = true)
+    void lockCustomer(@Param("email") String email);
+
+    // Applies new orders to the customer's summary row, creating it if missing
+    @Modifying
+    @Query(value = """
+            insert into customer_order_summary (email, order_count, distinct_product_count, last_order_at)
+            values (lower(:email), :orders, :newProducts, :orderedAt)
+            on conflict (email) do update set
+              order_count = customer_order_summary.order_count + excluded.order_count,
+              distinct_product_count = customer_order_summary.distinct_product_count + excluded.distinct_product_count,
+              last_order_at = greatest(customer_order_summary.last_order_at, excluded.last_order_at)
+            """, nativeQuery = true)
+    void recordOrders(@Param("email") String email,
+                      @Param("orders") int orders,
+                      @Param("newProducts") int newProducts,
+                      @Param("orderedAt") OffsetDateTime orderedAt);
+
+    // Removes all summary rows before a rebuild
+    @Modifying
+    @Query(value = "delete from customer_order_summary", nativeQuery = true)
+    void deleteAllRows();
+
+    // Recomputes every summary row from the orders table.
+    // Upserts because a customer's first order may commit its summary row after deleteAllRows
+    @Modifying
+    @Query(value = """
+            insert into customer_order_summary (email, order_count, distinct_product_count, last_order_at)
+            select lower(email), count(*), count(distinct product_id), max(created_at)
+            from orders
+            group by lower(email)
+            on conflict (email) do update set
+              order_count = excluded.order_count,
+              distinct_product_count = excluded.distinct_product_count,
+              last_order_at = excluded.last_order_at
+            """, nativeQuery = true)
+    int rebuildFromOrders();
+}
@@ -2,7 +2,10 @@ package com.vodafoneziggo.assignment.order.repo;
 
 import com.vodafoneziggo.assignment.order.model.OrderEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -11,9 +14,65 @@ import java.util.UUID;
  * Handles basic CRUD and a few domain-specific lookups.
  */
 public interface OrderRepository extends JpaRepository<OrderEntity, UUID> {
-    // Used to enforce "one product per customer" rule
-    boolean existsByEmailAndProductId(String email, String productId);
-
     // Fetch all orders for a customer, email comparison is case-insensitive
     List<OrderEntity> findAllByEmailIgnoreCase(String email);
+
+    // Existing orders of a customer among the given products, matched case-insensitively in one query.
+    // Exact email matches enforce the "one product per customer" rule; the rest tell the summary a product isn't new
+    @Query(value = """
+            select email as "email", product_id as "productId"
+            from orders
+            where lower(email) = lower(:email)
+              and product_id = any(cast(:productIds as varchar[]))
+            """, nativeQuery = true)
+    List<CustomerProduct> findCustomerProducts(@Param("email") String email,
+                                               @Param("productIds") String[] productIds);
+
+    // Inserts one order per product and applies them to the customer summary in a single statement.
+    // Rows hitting the unique constraint are skipped and not counted; products in knownProductIds
+    // (already ordered under another email casing) don't add to the distinct product count
+    @Query(value = """
+            with inserted as (
+              insert into orders (order_id, email, first_name, last_name, product_id, created_at)
+              select gen_random_uuid(), :email, :firstName, :lastName, p.product_id, :createdAt
+              from unnest(cast(:productIds as varchar[])) as p(product_id)
+              on conflict (email, product_id) do nothing
+              returning order_id, product_id
+            ), summary as (
+              insert into customer_order_summary (email, order_count, distinct_product_count, last_order_at)
+              select lower(:email),
+                     count(*),
+                     count(*) filter (where product_id <> all(cast(:knownProductIds as varchar[]))),
+                     :createdAt
+              from inserted
+              having count(*) > 0
+              on conflict (email) do update set
+                order_count = customer_order_summary.order_count + excluded.order_count,
+                distinct_product_count = customer_order_summary.distinct_product_count + excluded.distinct_product_count,
+                last_order_at = greatest(customer_order_summary.last_order_at, excluded.last_order_at)
+            )
+            select order_id as "orderId", product_id as "productId" from inserted
+            """, nativeQuery = true)
+    List<InsertedOrder> insertOrdersWithSummary(@Param("email") String email,
+                                                @Param("firstName") String firstName,
+                                                @Param("lastName") String lastName,
+                                                @Param("productIds") String[] productIds,
+                                                @Param("knownProductIds") String[] knownProductIds,
+                                                @Param("createdAt") OffsetDateTime createdAt);
+
+    /**
+     * Projection of an existing (email, product) pair.
+     */
+    interface CustomerProduct {
+        String getEmail();
+        String getProductId();
+    }
+
+    /**
+     * Projection of a row written by insertOrdersWithSummary.
+     */
+    interface InsertedOrder {
+        UUID getOrderId();
+        String getProductId();
+    }
 }
@@ -0,0 +1,31 @@
+package com.vodafoneziggo.assignment.order.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds the customer summary read model from the orders table at startup.
+ * Enabled with --customer-summary.rebuild-on-startup=true.
+ */
+@Component
+@ConditionalOnProperty(name = "customer-summary.rebuild-on-startup", havingValue = "true")
+public class CustomerSummaryRebuildRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(CustomerSummaryRebuildRunner.class);
+
+    private final CustomerSummaryService summaryService;
+
+    public CustomerSummaryRebuildRunner(CustomerSummaryService summaryService) {
+        this.summaryService = summaryService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int customers = summaryService.rebuild();
+        log.info("Rebuilt customer order summaries for {} customers", customers);
+    }
+}
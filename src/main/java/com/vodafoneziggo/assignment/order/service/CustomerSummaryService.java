@@ -0,0 +1,68 @@
+package com.vodafoneziggo.assignment.order.service;
+
+import com.vodafoneziggo.assignment.order.contract.model.CustomerSummaryResponse;
+import com.vodafoneziggo.assignment.order.repo.CustomerOrderSummaryRepository;
+import java.time.OffsetDateTime;
+import java.util.Locale;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class CustomerSummaryService {
+
+    // Backing store for the per-customer read model
+    private final CustomerOrderSummaryRepository repo;
+
+    public CustomerSummaryService(CustomerOrderSummaryRepository repo) {
+        this.repo = repo;
+    }
+
+    /**
+     * Locks the customer's summary row for the rest of the caller's transaction.
+     * Must run before checking which products the customer already has, so that
+     * concurrent orders under different email casings cannot both count a product as new.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lockCustomer(String email) {
+        repo.lockCustomer(email);
+    }
+
+    /**
+     * Applies a newly created order to the customer's summary.
+     * Must join the caller's transaction, after lockCustomer, so the summary never drifts from orders.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordOrder(String email, boolean newProduct, OffsetDateTime orderedAt) {
+        repo.recordOrders(email, 1, newProduct ? 1 : 0, orderedAt);
+    }
+
+    /**
+     * Returns the summary for a customer with a single primary key lookup.
+     * Customers without orders get an empty summary rather than an error.
+     */
+    @Transactional(readOnly = true)
+    public CustomerSummaryResponse getSummary(String email) {
+        String key = email.toLowerCase(Locale.ROOT);
+        CustomerSummaryResponse resp = new CustomerSummaryResponse(key, 0L, 0L);
+
+        repo.findById(key).ifPresent(s -> {
+            resp.setOrderCount(s.getOrderCount());
+            resp.setDistinctProductCount(s.getDistinctProductCount());
+            resp.setLastOrderAt(s.getLastOrderAt());
+        });
+        return resp;
+    }
+
+    /**
+     * Recomputes all summaries from the orders table.
+     * Safe while orders are being placed: rows committed in between are overwritten, not duplicated.
+     * Returns the number of customers written.
+     */
+    @Transactional
+    public int rebuild() {
+        repo.deleteAllRows();
+        return repo.rebuildFromOrders();
+    }
+}
@@ -4,7 +4,14 @@ import com.vodafoneziggo.assignment.order.contract.model.OrderResponse;
 import com.vodafoneziggo.assignment.order.integration.ReqResClient;
 import com.vodafoneziggo.assignment.order.model.OrderEntity;
 import com.vodafoneziggo.assignment.order.repo.OrderRepository;
+import com.vodafoneziggo.assignment.order.repo.OrderRepository.CustomerProduct;
+import com.vodafoneziggo.assignment.order.repo.OrderRepository.InsertedOrder;
+import java.time.OffsetDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -21,21 +28,31 @@ public class OrderService {
     // Client for external user validation (ReqRes)
     private final ReqResClient reqResClient;
 
-    public OrderService(OrderRepository repo, ReqResClient reqResClient) {
+    // Keeps the per-customer read model in step with orders
+    private final CustomerSummaryService summaryService;
+
+    public OrderService(OrderRepository repo, ReqResClient reqResClient, CustomerSummaryService summaryService) {
         this.repo = repo;
         this.reqResClient = reqResClient;
+        this.summaryService = summaryService;
     }
 
     /**
      * Creates a new order for a given product and email.
      * Validates the user via external service and enforces uniqueness.
+     * The customer summary is updated in the same transaction.
      */
     @Transactional
     public UUID createOrder(String productId, String email) {
-        // Friendly pre-check (not sufficient under concurrency)
-        if (repo.existsByEmailAndProductId(email, productId)) {
+        // Serializes orders of this customer (any email casing) so the lookup below can't race
+        summaryService.lockCustomer(email);
+
+        // One lookup: an exact email match is a duplicate, a case-insensitive one means the product isn't new
+        List<CustomerProduct> existing = repo.findCustomerProducts(email, new String[]{productId});
+        if (existing.stream().anyMatch(p -> p.getEmail().equals(email))) {
             throw new DuplicateOrderException();
         }
+        boolean newProduct = existing.isEmpty();
 
         // Verify user exists in external system
         var user = reqResClient.findUserByEmail(email)
@@ -49,14 +66,67 @@ public class OrderService {
         e.setLastName(user.lastName());
 
         try {
-            // Save and return generated order id
-            return repo.save(e).getOrderId();
+            // Save and apply the order to the summary; the upsert flushes the insert first
+            OrderEntity saved = repo.save(e);
+            summaryService.recordOrder(email, newProduct, saved.getCreatedAt());
+            return saved.getOrderId();
         } catch (DataIntegrityViolationException ex) {
             // Real protection (DB unique constraint)
             throw new DuplicateOrderException();
         }
     }
 
+    /**
+     * Creates one order per product for the same email in a single transaction.
+     * The user is resolved once, duplicates are found with one query and
+     * all new rows plus the summary update are written with one statement.
+     * Results keep the request order; repeated productIds are collapsed.
+     */
+    @Transactional
+    public List<ProductOrder> createOrders(List<String> productIds, String email) {
+        // Bean validation skips null items, so reject them (and blanks) before anything is written
+        if (productIds.stream().anyMatch(p -> p == null || p.isBlank())) {
+            throw new InvalidProductIdException();
+        }
+        Set<String> requested = new LinkedHashSet<>(productIds);
+
+        // Serializes orders of this customer (any email casing) so knownProducts stays accurate
+        summaryService.lockCustomer(email);
+
+        // Case-insensitive matches feed the summary; exact matches are duplicates for the unique constraint
+        Set<String> duplicates = new HashSet<>();
+        Set<String> knownProducts = new HashSet<>();
+        for (CustomerProduct existing : repo.findCustomerProducts(email, requested.toArray(String[]::new))) {
+            knownProducts.add(existing.getProductId());
+            if (existing.getEmail().equals(email)) {
+                duplicates.add(existing.getProductId());
+            }
+        }
+
+        List<String> toCreate = requested.stream()
+                .filter(p -> !duplicates.contains(p))
+                .toList();
+
+        Map<String, UUID> created = Map.of();
+        if (!toCreate.isEmpty()) {
+            // Verify user exists in external system (skipped when everything is a duplicate)
+            var user = reqResClient.findUserByEmail(email)
+                    .orElseThrow(EmailNotFoundException::new);
+
+            OffsetDateTime createdAt = OffsetDateTime.now();
+
+            // Rows lost to a concurrent insert are simply not returned and end up as duplicates
+            created = repo.insertOrdersWithSummary(email, user.firstName(), user.lastName(),
+                            toCreate.toArray(String[]::new), knownProducts.toArray(String[]::new), createdAt).stream()
+                    .collect(Collectors.toMap(InsertedOrder::getProductId, InsertedOrder::getOrderId));
+        }
+
+        Map<String, UUID> orderIds = created;
+        return requested.stream()
+                .map(p -> new ProductOrder(p, orderIds.get(p)))
+                .toList();
+    }
+
     /**
      * Returns raw order entities for a given email.
      */
@@ -64,9 +134,19 @@ public class OrderService {
         return repo.findAllByEmailIgnoreCase(email);
     }
 
+    // Outcome for one product of a multi-product order; orderId is null for duplicates
+    public record ProductOrder(String productId, UUID orderId) {
+        public boolean created() {
+            return orderId != null;
+        }
+    }
+
     // Thrown when the same customer orders the same product twice
     public static class DuplicateOrderException extends RuntimeException {}
 
+    // Thrown when a product id in a multi-product order is null or blank
+    public static class InvalidProductIdException extends RuntimeException {}
+
     // Thrown when email does not exist in external user system
     public static class EmailNotFoundException extends RuntimeException {}
 
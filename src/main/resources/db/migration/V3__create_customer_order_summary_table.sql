@@ -0,0 +1,16 @@
+-- Per-customer read model, maintained incrementally on order creation
+create table customer_order_summary (
+  email varchar(255) primary key,
+  order_count bigint not null,
+  distinct_product_count bigint not null,
+  last_order_at timestamp not null
+);
+
+-- Backfill from orders that already exist
+insert into customer_order_summary (email, order_count, distinct_product_count, last_order_at)
+select lower(email), count(*), count(distinct product_id), max(created_at)
+from orders
+group by lower(email);
+
+-- Supports case-insensitive per-customer lookups and distinct product checks
+create index idx_orders_lower_email_product on orders (lower(email), product_id);
@@ -3,6 +3,10 @@ package com.vodafoneziggo.assignment.order;
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 
 import com.github.tomakehurst.wiremock.WireMockServer;
+import com.vodafoneziggo.assignment.order.repo.CustomerOrderSummaryRepository;
+import com.vodafoneziggo.assignment.order.service.CustomerSummaryService;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -10,7 +14,10 @@ import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.json.JsonCompareMode;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
@@ -92,6 +99,15 @@ class OrderApiIntegrationTest {
         registry.add("integration.reqres.timeout-ms", () -> "3000");
     }
 
+    @Autowired
+    CustomerSummaryService summaryService;
+
+    @Autowired
+    CustomerOrderSummaryRepository summaryRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
     /**
      * Random port injected by Spring Boot.
      */
@@ -207,4 +223,462 @@ class OrderApiIntegrationTest {
                 .exchange()
                 .expectStatus().isEqualTo(409);
     }
+
+    /**
+     * Read model test:
+     * - Two orders are created for the same customer
+     * - Summary reflects both, regardless of email casing
+     */
+    @Test
+    void customerSummary_afterOrders_returnsCounts() {
+        stubFor(get(urlPathEqualTo("/users"))
+                .withQueryParam("page", equalTo("1"))
+                .willReturn(okJson("""
+          {
+            "page": 1,
+            "total_pages": 1,
+            "data": [
+              { "email": "tobias.funke@reqres.in", "first_name": "Tobias", "last_name": "Funke" }
+            ]
+          }
+        """)));
+
+        for (String productId : new String[]{"TV-20", "TV-21"}) {
+            webTestClient.post()
+                    .uri("/api/orders")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue("""
+              { "productId": "%s", "email": "tobias.funke@reqres.in" }
+            """.formatted(productId))
+                    .exchange()
+                    .expectStatus().isCreated();
+        }
+
+        webTestClient.get()
+                .uri("/api/customers/{email}/summary", "Tobias.Funke@reqres.in")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.email").isEqualTo("tobias.funke@reqres.in")
+                .jsonPath("$.orderCount").isEqualTo(2)
+                .jsonPath("$.distinctProductCount").isEqualTo(2)
+                .jsonPath("$.lastOrderAt").exists();
+    }
+
+    /**
+     * Multi-product test:
+     * - One product was already ordered, two are new
+     * - Response reports per-product results in request order
+     */
+    @Test
+    void createOrders_multipleProducts_returnsPerProductResults() {
+        stubFor(get(urlPathEqualTo("/users"))
+                .withQueryParam("page", equalTo("1"))
+                .willReturn(okJson("""
+          {
+            "page": 1,
+            "total_pages": 1,
+            "data": [
+              { "email": "lindsay.funke@reqres.in", "first_name": "Lindsay", "last_name": "Funke" }
+            ]
+          }
+        """)));
+
+        webTestClient.post()
+                .uri("/api/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+          { "productId": "TV-30", "email": "lindsay.funke@reqres.in" }
+        """)
+                .exchange()
+                .expectStatus().isCreated();
+
+        webTestClient.post()
+                .uri("/api/orders/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+          { "productIds": ["TV-31", "TV-30", "TV-32"], "email": "lindsay.funke@reqres.in" }
+        """)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.results.length()").isEqualTo(3)
+                .jsonPath("$.results[0].productId").isEqualTo("TV-31")
+                .jsonPath("$.results[0].status").isEqualTo("CREATED")
+                .jsonPath("$.results[0].orderId").exists()
+                // Exact object: a DUPLICATE result has no orderId key at all, not a null one
+                .jsonPath("$.results[1]").isEqualTo(Map.of("productId", "TV-30", "status", "DUPLICATE"))
+                .jsonPath("$.results[2].status").isEqualTo("CREATED");
+
+        webTestClient.get()
+                .uri("/api/customers/{email}/summary", "lindsay.funke@reqres.in")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.orderCount").isEqualTo(3)
+                .jsonPath("$.distinctProductCount").isEqualTo(3);
+    }
+
+    /**
+     * Multi-product validation test:
+     * - A null, empty or blank productId rejects the whole request with 400
+     * - No order is written for the valid items next to it
+     */
+    @Test
+    void createOrders_nullOrBlankProductId_returns400() {
+        for (String productIds : new String[]{"[\"TV-60\", null]", "[\"TV-60\", \"\"]", "[\"TV-60\", \"   \"]"}) {
+            webTestClient.post()
+                    .uri("/api/orders/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue("{ \"productIds\": " + productIds + ", \"email\": \"lucille.bluth@reqres.in\" }")
+                    .exchange()
+                    .expectStatus().isBadRequest()
+                    .expectBody()
+                    .jsonPath("$.code").isEqualTo("BAD_REQUEST");
+        }
+
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/api/orders").queryParam("email", "lucille.bluth@reqres.in").build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(0);
+    }
+
+    /**
+     * Multi-product email test:
+     * - External API returns no matching user
+     * - Whole request responds with 422 and nothing is written
+     */
+    @Test
+    void createOrders_emailNotFound_returns422() {
+        stubFor(get(urlPathEqualTo("/users"))
+                .withQueryParam("page", equalTo("1"))
+                .willReturn(okJson("""
+          {
+            "page": 1,
+            "total_pages": 1,
+            "data": []
+          }
+        """)));
+
+        webTestClient.post()
+                .uri("/api/orders/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+          { "productIds": ["TV-70", "TV-71"], "email": "missing.batch@example.com" }
+        """)
+                .exchange()
+                .expectStatus().isEqualTo(422)
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("EMAIL_NOT_FOUND");
+
+        webTestClient.get()
+                .uri("/api/customers/{email}/summary", "missing.batch@example.com")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.orderCount").isEqualTo(0);
+    }
+
+    /**
+     * Multi-product duplicate test:
+     * - Every product was already ordered
+     * - All results are DUPLICATE, ReqRes is not called and the summary is unchanged
+     */
+    @Test
+    void createOrders_allDuplicates_skipsReqRes() {
+        stubFor(get(urlPathEqualTo("/users"))
+                .withQueryParam("page", equalTo("1"))
+                .willReturn(okJson("""
+          {
+            "page": 1,
+            "total_pages": 1,
+            "data": [
+              { "email": "oscar.bluth@reqres.in", "first_name": "Oscar", "last_name": "Bluth" }
+            ]
+          }
+        """)));
+
+        webTestClient.post()
+                .uri("/api/orders/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+          { "productIds": ["TV-72", "TV-73"], "email": "oscar.bluth@reqres.in" }
+        """)
+                .exchange()
+                .expectStatus().isOk();
+
+        resetAllRequests();
+
+        webTestClient.post()
+                .uri("/api/orders/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+          { "productIds": ["TV-73", "TV-72"], "email": "oscar.bluth@reqres.in" }
+        """)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .json("""
+          {
+            "results": [
+              { "productId": "TV-73", "status": "DUPLICATE" },
+              { "productId": "TV-72", "status": "DUPLICATE" }
+            ]
+          }
+        """, JsonCompareMode.STRICT);
+
+        verify(0, getRequestedFor(urlPathEqualTo("/users")));
+
+        webTestClient.get()
+                .uri("/api/customers/{email}/summary", "oscar.bluth@reqres.in")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.orderCount").isEqualTo(2)
+                .jsonPath("$.distinctProductCount").isEqualTo(2);
+    }
+
+    /**
+     * Multi-product repeat test:
+     * - The same productId appears more than once in one request
+     * - It is ordered and counted once, with one result per distinct product
+     * - A product already ordered under another email casing isn't counted as distinct again
+     */
+    @Test
+    void createOrders_repeatedProductIds_areCollapsed() {
+        stubFor(get(urlPathEqualTo("/users"))
+                .withQueryParam("page", equalTo("1"))
+                .willReturn(okJson("""
+          {
+            "page": 1,
+            "total_pages": 1,
+            "data": [
+              { "email": "annyong.bluth@reqres.in", "first_name": "Annyong", "last_name": "Bluth" }
+            ]
+          }
+        """)));
+
+        webTestClient.post()
+                .uri("/api/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+          { "productId": "TV-75", "email": "Annyong.Bluth@reqres.in" }
+        """)
+                .exchange()
+                .expectStatus().isCreated();
+
+        webTestClient.post()
+                .uri("/api/orders/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+          { "productIds": ["TV-74", "TV-75", "TV-74"], "email": "annyong.bluth@reqres.in" }
+        """)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.results.length()").isEqualTo(2)
+                .jsonPath("$.results[0].productId").isEqualTo("TV-74")
+                .jsonPath("$.results[0].status").isEqualTo("CREATED")
+                .jsonPath("$.results[1].productId").isEqualTo("TV-75")
+                .jsonPath("$.results[1].status").isEqualTo("CREATED");
+
+        webTestClient.get()
+                .uri("/api/customers/{email}/summary", "annyong.bluth@reqres.in")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.orderCount").isEqualTo(3)
+                .jsonPath("$.distinctProductCount").isEqualTo(2);
+    }
+
+    /**
+     * Read model concurrency test:
+     * - The same product is ordered concurrently under two email casings
+     * - Both orders succeed, but the product is counted as distinct only once
+     */
+    @Test
+    void customerSummary_concurrentOrdersDifferentCasing_countsProductOnce() {
+        // Delay widens the window between the product lookup and the insert
+        stubFor(get(urlPathEqualTo("/users"))
+                .withQueryParam("page", equalTo("1"))
+                .willReturn(okJson("""
+          {
+            "page": 1,
+            "total_pages": 1,
+            "data": [
+              { "email": "buster.bluth@reqres.in", "first_name": "Buster", "last_name": "Bluth" }
+            ]
+          }
+        """).withFixedDelay(300)));
+
+        CompletableFuture<?>[] orders = new CompletableFuture<?>[2];
+        String[] emails = {"buster.bluth@reqres.in", "Buster.Bluth@reqres.in"};
+        for (int i = 0; i < emails.length; i++) {
+            String email = emails[i];
+            orders[i] = CompletableFuture.runAsync(() -> webTestClient.post()
+                    .uri("/api/orders")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue("""
+              { "productId": "TV-40", "email": "%s" }
+            """.formatted(email))
+                    .exchange()
+                    .expectStatus().isCreated());
+        }
+        CompletableFuture.allOf(orders).join();
+
+        webTestClient.get()
+                .uri("/api/customers/{email}/summary", "buster.bluth@reqres.in")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.orderCount").isEqualTo(2)
+                .jsonPath("$.distinctProductCount").isEqualTo(1);
+    }
+
+    /**
+     * Read model rebuild test:
+     * - Orders exist, then summary rows are corrupted and deleted
+     * - Rebuild recomputes them from the orders table
+     */
+    @Test
+    void customerSummary_rebuild_recomputesFromOrders() {
+        stubFor(get(urlPathEqualTo("/users"))
+                .withQueryParam("page", equalTo("1"))
+                .willReturn(okJson("""
+          {
+            "page": 1,
+            "total_pages": 1,
+            "data": [
+              { "email": "gob.bluth@reqres.in", "first_name": "Gob", "last_name": "Bluth" },
+              { "email": "maeby.funke@reqres.in", "first_name": "Maeby", "last_name": "Funke" }
+            ]
+          }
+        """)));
+
+        webTestClient.post()
+                .uri("/api/orders/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+          { "productIds": ["TV-50", "TV-51"], "email": "gob.bluth@reqres.in" }
+        """)
+                .exchange()
+                .expectStatus().isOk();
+        webTestClient.post()
+                .uri("/api/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+          { "productId": "TV-52", "email": "maeby.funke@reqres.in" }
+        """)
+                .exchange()
+                .expectStatus().isCreated();
+
+        // Corrupt one summary and drop the other
+        var gob = summaryRepository.findById("gob.bluth@reqres.in").orElseThrow();
+        gob.setOrderCount(99);
+        gob.setDistinctProductCount(99);
+        summaryRepository.save(gob);
+        summaryRepository.deleteById("maeby.funke@reqres.in");
+
+        summaryService.rebuild();
+
+        webTestClient.get()
+                .uri("/api/customers/{email}/summary", "gob.bluth@reqres.in")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.orderCount").isEqualTo(2)
+                .jsonPath("$.distinctProductCount").isEqualTo(2);
+        webTestClient.get()
+                .uri("/api/customers/{email}/summary", "maeby.funke@reqres.in")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.orderCount").isEqualTo(1)
+                .jsonPath("$.distinctProductCount").isEqualTo(1)
+                .jsonPath("$.lastOrderAt").exists();
+    }
+
+    /**
+     * Read model rebuild concurrency test:
+     * - A new customer's first order commits between the rebuild's delete and insert
+     * - The rebuild still succeeds and the summary counts that order once
+     */
+    @Test
+    void customerSummary_orderDuringRebuild_isCountedOnce() {
+        stubFor(get(urlPathEqualTo("/users"))
+                .withQueryParam("page", equalTo("1"))
+                .willReturn(okJson("""
+          {
+            "page": 1,
+            "total_pages": 1,
+            "data": [
+              { "email": "kitty.sanchez@reqres.in", "first_name": "Kitty", "last_name": "Sanchez" }
+            ]
+          }
+        """)));
+
+        // Same steps as CustomerSummaryService.rebuild(), with the order placed in between
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            summaryRepository.deleteAllRows();
+
+            webTestClient.post()
+                    .uri("/api/orders")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue("""
+              { "productId": "TV-53", "email": "kitty.sanchez@reqres.in" }
+            """)
+                    .exchange()
+                    .expectStatus().isCreated();
+
+            summaryRepository.rebuildFromOrders();
+        });
+
+        webTestClient.get()
+                .uri("/api/customers/{email}/summary", "kitty.sanchez@reqres.in")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.orderCount").isEqualTo(1)
+                .jsonPath("$.distinctProductCount").isEqualTo(1);
+    }
+
+    /**
+     * Observability test:
+     * - After a ReqRes call, the tuned pool's metrics are exposed via actuator
+     */
+    @Test
+    void actuatorMetrics_exposeReqResPoolMetrics() {
+        stubFor(get(urlPathEqualTo("/users"))
+                .withQueryParam("page", equalTo("1"))
+                .willReturn(okJson("""
+          {
+            "page": 1,
+            "total_pages": 1,
+            "data": []
+          }
+        """)));
+
+        webTestClient.post()
+                .uri("/api/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+          { "productId": "TV-60", "email": "nobody@example.com" }
+        """)
+                .exchange()
+                .expectStatus().isEqualTo(422);
+
+        for (String metric : new String[]{
+                "reactor.netty.connection.provider.active.connections",
+                "reactor.netty.connection.provider.idle.connections",
+                "reactor.netty.connection.provider.pending.connections.time"}) {
+            webTestClient.get()
+                    .uri("/actuator/metrics/{metric}?tag=name:reqres", metric)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.name").isEqualTo(metric);
+        }
+    }
 }
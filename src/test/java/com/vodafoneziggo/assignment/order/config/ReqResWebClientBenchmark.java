@@ -0,0 +1,149 @@
+package com.vodafoneziggo.assignment.order.config;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.vodafoneziggo.assignment.order.integration.ReqResClient;
+import com.vodafoneziggo.assignment.order.integration.ReqResClient.UserIdentity;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Compares the ReqRes WebClient before and after pool tuning against a WireMock stand-in:
+ * - baseline: HttpClient.create() with only a response timeout (the previous configuration).
+ *   It uses the shared HttpResources pool, which allows 500 connections (not
+ *   ConnectionProvider.DEFAULT_POOL_MAX_CONNECTIONS, which is 16 on small machines)
+ * - tuned: WebClientConfig with the application.yaml pool defaults (50 connections)
+ *
+ * The stand-in runs in its own JVM so its request handling isn't charged to the client, and adds
+ * a fixed delay to model ReqRes latency. 32 threads share one client, so neither pool queues:
+ * this checks the tuned client costs nothing per request, it doesn't show a speed-up.
+ * Gzip is disabled on the stand-in so its compression work doesn't skew the comparison.
+ *
+ * Not a test: run main() from the IDE, or
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=cp.txt
+ * java -cp target/test-classes:target/classes:$(cat cp.txt) com.vodafoneziggo.assignment.order.config.ReqResWebClientBenchmark
+ * and compare ops/ms (throughput) and p0.99 (sample mode).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(32)
+@Fork(1)
+public class ReqResWebClientBenchmark {
+
+    private static final String PAGE = """
+            {
+              "page": 1,
+              "total_pages": 1,
+              "data": [
+                { "email": "george.bluth@reqres.in", "first_name": "George", "last_name": "Bluth" },
+                { "email": "janet.weaver@reqres.in", "first_name": "Janet", "last_name": "Weaver" },
+                { "email": "emma.wong@reqres.in", "first_name": "Emma", "last_name": "Wong" }
+              ]
+            }
+            """;
+
+    @Param({"baseline", "tuned"})
+    public String client;
+
+    // Simulated upstream latency per request
+    @Param({"20", "100"})
+    public int latencyMs;
+
+    private Process standIn;
+    private ConnectionProvider pool;
+    private ReqResClient reqResClient;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        String baseUrl = startStandIn();
+
+        WebClient webClient;
+        if ("baseline".equals(client)) {
+            // Previous WebClientConfig: shared default pool, response timeout only
+            webClient = WebClient.builder()
+                    .baseUrl(baseUrl)
+                    .clientConnector(new ReactorClientHttpConnector(
+                            HttpClient.create().responseTimeout(Duration.ofMillis(3000))))
+                    .build();
+        } else {
+            WebClientConfig config = new WebClientConfig();
+            pool = config.reqResConnectionProvider(50, 200, 2000, 20000, 300000, 30000, false);
+            webClient = config.reqResWebClient(pool, baseUrl, "", 3000, 1000, 3000, 3000, true);
+        }
+        reqResClient = new ReqResClient(webClient, true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        if (pool != null) {
+            pool.dispose();
+        }
+        standIn.destroy();
+        standIn.waitFor();
+    }
+
+    @Benchmark
+    public Optional<UserIdentity> lookup() {
+        return reqResClient.findUserByEmail("emma.wong@reqres.in");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ReqResWebClientBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    // Launches StandIn in a child JVM with this classpath and waits for the port it reports
+    private String startStandIn() throws IOException {
+        standIn = new ProcessBuilder(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"),
+                StandIn.class.getName(), String.valueOf(latencyMs))
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+
+        BufferedReader out = new BufferedReader(new InputStreamReader(standIn.getInputStream(), StandardCharsets.UTF_8));
+        String line;
+        while ((line = out.readLine()) != null) {
+            if (line.startsWith(StandIn.READY)) {
+                return "http://localhost:" + line.substring(StandIn.READY.length());
+            }
+        }
+        throw new IllegalStateException("ReqRes stand-in exited before it was ready");
+    }
+
+    /**
+     * ReqRes stand-in process: serves PAGE after the given delay until killed.
+     */
+    public static class StandIn {
+
+        static final String READY = "stand-in ready on port ";
+
+        public static void main(String[] args) {
+            WireMockServer wireMock = new WireMockServer(options().dynamicPort().containerThreads(200).gzipDisabled(true));
+            wireMock.start();
+            wireMock.stubFor(get(urlPathEqualTo("/users"))
+                    .willReturn(okJson(PAGE).withFixedDelay(Integer.parseInt(args[0]))));
+            System.out.println(READY + wireMock.port());
+        }
+    }
+}
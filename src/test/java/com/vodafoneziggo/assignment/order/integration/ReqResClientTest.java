@@ -0,0 +1,254 @@
+package com.vodafoneziggo.assignment.order.integration;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.vodafoneziggo.assignment.order.config.WebClientConfig;
+import com.vodafoneziggo.assignment.order.integration.ReqResClient.ReqResUnavailableException;
+import com.vodafoneziggo.assignment.order.integration.ReqResClient.UserIdentity;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * ReqRes client test without a Spring context:
+ * - Real WebClient built by WebClientConfig
+ * - External API mocked via WireMock
+ */
+class ReqResClientTest {
+
+    private static final String PAGE = """
+            {
+              "page": 1,
+              "total_pages": 1,
+              "data": [
+                { "email": "george.bluth@reqres.in", "first_name": "George", "last_name": "Bluth" }
+              ]
+            }
+            """;
+
+    static WireMockServer wireMock;
+
+    // Captures the meters Reactor Netty publishes to the global registry
+    static SimpleMeterRegistry meters;
+
+    private final WebClientConfig config = new WebClientConfig();
+
+    private ConnectionProvider pool;
+
+    @BeforeAll
+    static void startServer() {
+        wireMock = new WireMockServer(0);
+        wireMock.start();
+        meters = new SimpleMeterRegistry();
+        Metrics.addRegistry(meters);
+    }
+
+    @AfterAll
+    static void stopServer() {
+        Metrics.removeRegistry(meters);
+        wireMock.stop();
+    }
+
+    @BeforeEach
+    void resetStubs() {
+        wireMock.resetAll();
+    }
+
+    @AfterEach
+    void disposePool() {
+        if (pool != null) {
+            pool.dispose();
+        }
+    }
+
+    /**
+     * Builds the client the same way the application context does.
+     */
+    private ReqResClient client(long readTimeoutMs) {
+        return client(readTimeoutMs, true);
+    }
+
+    private ReqResClient client(long readTimeoutMs, boolean streamingParse) {
+        pool = config.reqResConnectionProvider(50, 200, 2000, 20000, 300000, 30000, true);
+        return new ReqResClient(
+                config.reqResWebClient(pool, wireMock.baseUrl(), "", 3000, 1000, readTimeoutMs, 3000, true),
+                streamingParse);
+    }
+
+    /**
+     * Pagination test, for both integration.reqres.streaming-parse modes:
+     * - Email on page 2 is found after page 1 misses
+     * - Unknown email stops at total_pages
+     */
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void findUserByEmail_acrossPages_sameResultInBothModes(boolean streamingParse) {
+        wireMock.stubFor(get(urlPathEqualTo("/users")).withQueryParam("page", equalTo("1"))
+                .willReturn(okJson(PAGE.replace("\"total_pages\": 1", "\"total_pages\": 2"))));
+        wireMock.stubFor(get(urlPathEqualTo("/users")).withQueryParam("page", equalTo("2"))
+                .willReturn(okJson("""
+                        {
+                          "page": 2,
+                          "total_pages": 2,
+                          "data": [
+                            { "email": "janet.weaver@reqres.in", "first_name": "Janet", "last_name": "Weaver" }
+                          ]
+                        }
+                        """)));
+
+        ReqResClient client = client(3000, streamingParse);
+
+        assertThat(client.findUserByEmail("JANET.WEAVER@reqres.in"))
+                .contains(new UserIdentity("Janet", "Weaver"));
+        assertThat(client.findUserByEmail("missing@reqres.in")).isEmpty();
+        wireMock.verify(0, getRequestedFor(urlPathEqualTo("/users")).withQueryParam("page", equalTo("3")));
+    }
+
+    /**
+     * Null data test, for both modes:
+     * - "data": null ends the search without a match or a next page
+     */
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void findUserByEmail_nullData_returnsEmptyInBothModes(boolean streamingParse) {
+        wireMock.stubFor(get(urlPathEqualTo("/users"))
+                .willReturn(okJson("{\"page\": 1, \"total_pages\": 5, \"data\": null}")));
+
+        assertThat(client(3000, streamingParse).findUserByEmail("george.bluth@reqres.in")).isEmpty();
+        wireMock.verify(1, getRequestedFor(urlPathEqualTo("/users")));
+    }
+
+    /**
+     * Gzip test:
+     * - Client advertises gzip
+     * - A gzip-encoded page is transparently decompressed
+     */
+    @Test
+    void findUserByEmail_gzipResponse_isDecompressed() throws IOException {
+        wireMock.stubFor(get(urlPathEqualTo("/users"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withHeader("Content-Encoding", "gzip")
+                        .withBody(gzip(PAGE))));
+
+        assertThat(client(3000).findUserByEmail("george.bluth@reqres.in"))
+                .contains(new UserIdentity("George", "Bluth"));
+
+        wireMock.verify(getRequestedFor(urlPathEqualTo("/users"))
+                .withHeader("Accept-Encoding", containing("gzip")));
+    }
+
+    /**
+     * Timeout test:
+     * - ReqRes answers slower than the read timeout
+     * - Surfaces as ReqResUnavailableException (502 at the API)
+     */
+    @Test
+    void findUserByEmail_slowResponse_timesOut() {
+        wireMock.stubFor(get(urlPathEqualTo("/users"))
+                .willReturn(okJson(PAGE).withFixedDelay(1000)));
+
+        ReqResClient client = client(200);
+
+        assertThatThrownBy(() -> client.findUserByEmail("george.bluth@reqres.in"))
+                .isInstanceOf(ReqResUnavailableException.class);
+    }
+
+    /**
+     * Metrics test:
+     * - The ReqRes pool publishes its gauges and acquire timer to Micrometer
+     */
+    @Test
+    void findUserByEmail_publishesPoolMetrics() {
+        wireMock.stubFor(get(urlPathEqualTo("/users")).willReturn(okJson(PAGE)));
+
+        client(3000).findUserByEmail("george.bluth@reqres.in");
+
+        for (String name : new String[]{
+                "reactor.netty.connection.provider.total.connections",
+                "reactor.netty.connection.provider.active.connections",
+                "reactor.netty.connection.provider.idle.connections",
+                "reactor.netty.connection.provider.pending.connections",
+                "reactor.netty.connection.provider.pending.connections.time"}) {
+            assertThat(meters.find(name).tag("name", "reqres").meter())
+                    .as(name)
+                    .isNotNull();
+        }
+    }
+
+    /**
+     * Connection reuse test:
+     * - Lookups that match (first user, last user) and one that doesn't
+     * - The single pooled connection survives all of them instead of being closed on match
+     * - The body is dribbled in chunks so a match always happens before the body is complete
+     */
+    @Test
+    void findUserByEmail_match_keepsConnectionPooled() {
+        wireMock.stubFor(get(urlPathEqualTo("/users")).willReturn(okJson("""
+                {
+                  "page": 1,
+                  "total_pages": 1,
+                  "data": [
+                    { "email": "george.bluth@reqres.in", "first_name": "George", "last_name": "Bluth" },
+                    { "email": "janet.weaver@reqres.in", "first_name": "Janet", "last_name": "Weaver" }
+                  ],
+                  "support": { "url": "https://reqres.in/#support-heading" }
+                }
+                """).withChunkedDribbleDelay(5, 200)));
+
+        // Gauges of pools from earlier tests stay registered; only count the one created here
+        Set<Meter.Id> earlierPools = totalConnectionGauges().stream().map(Meter::getId).collect(Collectors.toSet());
+        ReqResClient client = client(3000);
+
+        assertThat(client.findUserByEmail("george.bluth@reqres.in")).isPresent();
+        Gauge connections = totalConnectionGauges().stream()
+                .filter(g -> !earlierPools.contains(g.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertStaysPooled(connections);
+
+        assertThat(client.findUserByEmail("janet.weaver@reqres.in")).isPresent();
+        assertStaysPooled(connections);
+
+        assertThat(client.findUserByEmail("missing@reqres.in")).isEmpty();
+        assertStaysPooled(connections);
+    }
+
+    // A cancelled body closes its connection asynchronously, so require it to stay pooled for a while
+    private static void assertStaysPooled(Gauge connections) {
+        await().during(Duration.ofMillis(300))
+                .atMost(Duration.ofSeconds(1))
+                .until(() -> connections.value() == 1.0);
+    }
+
+    private static Collection<Gauge> totalConnectionGauges() {
+        return meters.find("reactor.netty.connection.provider.total.connections")
+                .tag("name", "reqres")
+                .gauges();
+    }
+
+    private static byte[] gzip(String body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+}
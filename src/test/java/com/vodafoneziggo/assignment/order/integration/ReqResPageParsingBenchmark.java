@@ -0,0 +1,116 @@
+package com.vodafoneziggo.assignment.order.integration;
+
+import com.vodafoneziggo.assignment.order.integration.ReqResClient.UserIdentity;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Compares per-lookup allocation of the two ReqRes page parsing modes:
+ * - bind: full ReqResUserResponse DTO, then stream over users (what WebClient's decoder does)
+ * - scan: ReqResUserPageScanner fed with network-sized chunks
+ *
+ * Not a test: run main() from the IDE, or
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=cp.txt
+ * java -cp target/test-classes:target/classes:$(cat cp.txt) com.vodafoneziggo.assignment.order.integration.ReqResPageParsingBenchmark
+ * and compare gc.alloc.rate.norm (bytes per lookup).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReqResPageParsingBenchmark {
+
+    // Roughly a Reactor Netty read size
+    private static final int CHUNK_SIZE = 8192;
+
+    // Where the searched email sits on the page
+    @Param({"first", "last", "absent"})
+    public String position;
+
+    @Param({"100"})
+    public int usersPerPage;
+
+    private final JsonMapper mapper = JsonMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private byte[] page;
+    private List<ByteBuffer> chunks;
+    private String email;
+
+    @Setup
+    public void setup() {
+        StringBuilder json = new StringBuilder("{\"page\":1,\"per_page\":").append(usersPerPage)
+                .append(",\"total\":").append(usersPerPage).append(",\"total_pages\":1,\"data\":[");
+        for (int i = 0; i < usersPerPage; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":").append(i)
+                    .append(",\"email\":\"user.").append(i).append("@reqres.in\"")
+                    .append(",\"first_name\":\"First").append(i).append('"')
+                    .append(",\"last_name\":\"Last").append(i).append('"')
+                    .append(",\"avatar\":\"https://reqres.in/img/faces/").append(i).append("-image.jpg\"}");
+        }
+        json.append("],\"support\":{\"url\":\"https://reqres.in/#support-heading\",\"text\":\"Support ReqRes\"}}");
+        page = json.toString().getBytes(StandardCharsets.UTF_8);
+
+        chunks = new ArrayList<>();
+        for (int off = 0; off < page.length; off += CHUNK_SIZE) {
+            chunks.add(ByteBuffer.wrap(page, off, Math.min(CHUNK_SIZE, page.length - off)).slice());
+        }
+
+        email = switch (position) {
+            case "first" -> "user.0@reqres.in";
+            case "last" -> "user." + (usersPerPage - 1) + "@reqres.in";
+            default -> "missing@reqres.in";
+        };
+    }
+
+    @Benchmark
+    public Optional<UserIdentity> bind() {
+        ReqResUserResponse response = mapper.readValue(page, ReqResUserResponse.class);
+        return response.getData().stream()
+                .filter(u -> u.getEmail() != null && u.getEmail().equalsIgnoreCase(email))
+                .findFirst()
+                .map(u -> new UserIdentity(u.getFirstName(), u.getLastName()));
+    }
+
+    // Same as ReqResClient.scanPage: every chunk is fed and released, chunks after a match go unparsed
+    @Benchmark
+    public Optional<UserIdentity> scan() {
+        ReqResUserPageScanner scanner = new ReqResUserPageScanner(email);
+        for (ByteBuffer chunk : chunks) {
+            DataBuffer buffer = DefaultDataBufferFactory.sharedInstance.wrap(chunk.duplicate());
+            try {
+                scanner.feed(buffer);
+            } finally {
+                DataBufferUtils.release(buffer);
+            }
+        }
+        return scanner.finish().match();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ReqResPageParsingBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
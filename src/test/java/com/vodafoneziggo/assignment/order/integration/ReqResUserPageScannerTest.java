@@ -0,0 +1,163 @@
+package com.vodafoneziggo.assignment.order.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vodafoneziggo.assignment.order.integration.ReqResClient.UserIdentity;
+import com.vodafoneziggo.assignment.order.integration.ReqResUserPageScanner.PageScan;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+/**
+ * Scanner test without HTTP:
+ * - Pages are fed in chunks of a given size, like Reactor Netty reads
+ * - Result must match what binding to ReqResUserResponse would give
+ */
+class ReqResUserPageScannerTest {
+
+    private static final String PAGE = """
+            {
+              "page": 2,
+              "total_pages": 3,
+              "data": [
+                { "id": 1, "email": "george.bluth@reqres.in", "first_name": "George", "last_name": "Bluth" },
+                { "id": 2, "email": "zoë.müller@reqres.in", "first_name": "Zoë", "last_name": "Müller" },
+                { "id": 3, "email": "emma.wong@reqres.in", "first_name": "Emma", "last_name": "Wong" }
+              ],
+              "support": { "url": "https://reqres.in/#support-heading", "text": "Support ReqRes" }
+            }
+            """;
+
+    /**
+     * Chunking test:
+     * - 1-byte chunks split every token, including the 2-byte UTF-8 characters
+     * - Larger chunk sizes land splits in different places
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 7, 64, 8192})
+    void scan_anyChunkSize_findsMultiByteUser(int chunkSize) {
+        PageScan scan = scan("ZOË.MÜLLER@reqres.in", PAGE, chunkSize);
+
+        assertThat(scan.match()).contains(new UserIdentity("Zoë", "Müller"));
+        assertThat(scan.hasData()).isTrue();
+        assertThat(scan.totalPages()).isEqualTo(3);
+    }
+
+    /**
+     * Position test:
+     * - First and last user on the page are both found
+     * - Name fields of earlier users don't leak into the match
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 8192})
+    void scan_firstAndLastUser_areFound(int chunkSize) {
+        assertThat(scan("george.bluth@reqres.in", PAGE, chunkSize).match())
+                .contains(new UserIdentity("George", "Bluth"));
+        assertThat(scan("emma.wong@reqres.in", PAGE, chunkSize).match())
+                .contains(new UserIdentity("Emma", "Wong"));
+    }
+
+    /**
+     * Miss test:
+     * - Unknown email scans the whole page
+     * - Still reports data and total_pages so the client moves to the next page
+     */
+    @Test
+    void scan_unknownEmail_reportsPageWithoutMatch() {
+        PageScan scan = scan("missing@reqres.in", PAGE, 16);
+
+        assertThat(scan.match()).isEmpty();
+        assertThat(scan.hasData()).isTrue();
+        assertThat(scan.totalPages()).isEqualTo(3);
+    }
+
+    /**
+     * Nesting test:
+     * - An "email" inside a nested object of a user is not the user's email
+     * - Nested name fields don't overwrite the user's own names
+     */
+    @Test
+    void scan_nestedEmailInsideUser_isIgnored() {
+        String page = """
+                {
+                  "total_pages": 1,
+                  "data": [
+                    {
+                      "email": "janet.weaver@reqres.in",
+                      "first_name": "Janet",
+                      "manager": { "email": "george.bluth@reqres.in", "first_name": "George", "last_name": "Bluth" },
+                      "last_name": "Weaver"
+                    }
+                  ]
+                }
+                """;
+
+        assertThat(scan("george.bluth@reqres.in", page, 5).match()).isEmpty();
+        assertThat(scan("janet.weaver@reqres.in", page, 5).match())
+                .contains(new UserIdentity("Janet", "Weaver"));
+    }
+
+    /**
+     * Null data test:
+     * - "data": null is treated like a missing page, as the DTO path does
+     */
+    @Test
+    void scan_nullData_hasNoData() {
+        PageScan scan = scan("george.bluth@reqres.in", "{\"total_pages\": 2, \"data\": null}", 4);
+
+        assertThat(scan.match()).isEmpty();
+        assertThat(scan.hasData()).isFalse();
+    }
+
+    /**
+     * Field order test:
+     * - total_pages after data is still picked up
+     * - A "total_pages" inside a nested block is not
+     */
+    @Test
+    void scan_totalPagesAfterData_isRead() {
+        String page = """
+                {
+                  "data": [ { "email": "emma.wong@reqres.in", "first_name": "Emma", "last_name": "Wong" } ],
+                  "meta": { "total_pages": 9 },
+                  "total_pages": 4
+                }
+                """;
+
+        PageScan scan = scan("missing@reqres.in", page, 3);
+
+        assertThat(scan.hasData()).isTrue();
+        assertThat(scan.totalPages()).isEqualTo(4);
+    }
+
+    /**
+     * Early stop test:
+     * - Once matched, further chunks are accepted but not parsed
+     * - Malformed trailing input therefore can't fail the lookup
+     */
+    @Test
+    void scan_inputAfterMatch_isIgnored() {
+        ReqResUserPageScanner scanner = new ReqResUserPageScanner("george.bluth@reqres.in");
+        feed(scanner, "{\"data\":[{\"email\":\"george.bluth@reqres.in\",\"first_name\":\"George\",\"last_name\":\"Bluth\"}");
+        feed(scanner, ",}}} not json");
+
+        assertThat(scanner.finish().match()).contains(new UserIdentity("George", "Bluth"));
+    }
+
+    private static PageScan scan(String email, String json, int chunkSize) {
+        ReqResUserPageScanner scanner = new ReqResUserPageScanner(email);
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        for (int off = 0; off < bytes.length; off += chunkSize) {
+            scanner.feed(DefaultDataBufferFactory.sharedInstance.wrap(
+                    Arrays.copyOfRange(bytes, off, Math.min(off + chunkSize, bytes.length))));
+        }
+        return scanner.finish();
+    }
+
+    private static void feed(ReqResUserPageScanner scanner, String chunk) {
+        scanner.feed(DefaultDataBufferFactory.sharedInstance.wrap(chunk.getBytes(StandardCharsets.UTF_8)));
+    }
+}